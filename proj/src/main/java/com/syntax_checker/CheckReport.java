@@ -0,0 +1,111 @@
+package com.syntax_checker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// Every lexical and syntax error of one source, collected in a single pass and sorted by position
+public class CheckReport {
+
+    public enum Kind {
+        LEXICAL, SYNTAX
+    }
+
+    public static class Diagnostic {
+        public final Kind kind;
+        public final int position;
+        public final int line;
+        public final int column;
+        public final String message; // What went wrong, without the location
+
+        public Diagnostic(Kind kind, int position, int line, int column, String message) {
+            this.kind = kind;
+            this.position = position;
+            this.line = line;
+            this.column = column;
+            this.message = message;
+        }
+
+        @Override
+        public String toString() {
+            return (kind == Kind.LEXICAL ? "Lexical" : "Syntax") + " error at line " + line + " (column " + column
+                    + "): " + message;
+        }
+    }
+
+    private final String sourceName;
+    private final int sourceLength;
+    private final LineMap lines;
+    private final List<Diagnostic> diagnostics = new ArrayList<>();
+    private boolean sorted = true;
+
+    public CheckReport(String sourceName, String code) {
+        this.sourceName = sourceName;
+        this.sourceLength = code.length();
+        this.lines = new LineMap(code);
+    }
+
+    // Tokenize and parse once, recording every error instead of stopping at the first one
+    public static CheckReport check(String sourceName, String code) {
+        CheckReport report = new CheckReport(sourceName, code);
+        List<Tokenizer.Token> tokens = new Tokenizer().tokenize(code, report);
+        new Parser(tokens, report.getLineMap()).check(report);
+        return report;
+    }
+
+    public void addLexicalError(int position, String token) {
+        add(Kind.LEXICAL, position, "Unrecognized token '" + token + "'");
+    }
+
+    public void addSyntaxError(int position, String message) {
+        // Errors at the end of input have no token, place them after the last character
+        add(Kind.SYNTAX, position < 0 ? sourceLength : position, message);
+    }
+
+    private void add(Kind kind, int position, String message) {
+        if (!diagnostics.isEmpty() && position < diagnostics.get(diagnostics.size() - 1).position) {
+            sorted = false;
+        }
+        diagnostics.add(new Diagnostic(kind, position, lines.lineOf(position), lines.columnOf(position), message));
+    }
+
+    public List<Diagnostic> getDiagnostics() {
+        if (!sorted) {
+            // Stable sort, so a lexical error stays ahead of a syntax error at the same position
+            diagnostics.sort(Comparator.comparingInt(diagnostic -> diagnostic.position));
+            sorted = true;
+        }
+        return Collections.unmodifiableList(diagnostics);
+    }
+
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    public LineMap getLineMap() {
+        return lines;
+    }
+
+    public boolean hasErrors() {
+        return !diagnostics.isEmpty();
+    }
+
+    public int getErrorCount() {
+        return diagnostics.size();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(sourceName).append(": ");
+        if (diagnostics.isEmpty()) {
+            return report.append("OK").toString();
+        }
+        report.append(diagnostics.size()).append(" error(s)\n");
+        for (Diagnostic diagnostic : getDiagnostics()) {
+            report.append("  ").append(diagnostic).append("\n");
+        }
+        return report.toString();
+    }
+}
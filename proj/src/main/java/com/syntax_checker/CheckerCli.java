@@ -0,0 +1,81 @@
+package com.syntax_checker;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Command line entry point: checks each file (or stdin for "-" / no arguments) and reports through the exit code
+public class CheckerCli {
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_ERRORS = 1;
+    public static final int EXIT_USAGE = 2;
+    public static final int EXIT_INTERNAL = 3;
+
+    private static final String USAGE = "Usage: syntax-checker [FILE...]\n"
+            + "Checks Java input/output statements. Reads stdin when no FILE is given or FILE is '-'.\n"
+            + "Exit status: 0 no errors, 1 errors found, 2 usage or I/O error, 3 internal checker error.";
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    public static int run(String[] args) {
+        // Handle options before checking anything, so a bad flag never leaves a partial report
+        for (String arg : args) {
+            if (arg.equals("-h") || arg.equals("--help")) {
+                System.out.println(USAGE);
+                return EXIT_OK;
+            }
+            if (arg.startsWith("-") && !arg.equals("-")) {
+                System.err.println("Unknown option: " + arg + "\n" + USAGE);
+                return EXIT_USAGE;
+            }
+        }
+
+        if (args.length == 0) {
+            return checkStdin();
+        }
+
+        int exitCode = EXIT_OK;
+        for (String arg : args) {
+            int result = arg.equals("-") ? checkStdin() : checkFile(arg);
+            exitCode = Math.max(exitCode, result);
+        }
+        return exitCode;
+    }
+
+    private static int checkStdin() {
+        try {
+            return check("<stdin>", new String(System.in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Cannot read stdin: " + e.getMessage());
+            return EXIT_USAGE;
+        }
+    }
+
+    private static int checkFile(String fileName) {
+        try {
+            return check(fileName, Files.readString(Path.of(fileName)));
+        } catch (IOException e) {
+            System.err.println("Cannot read " + fileName + ": " + e);
+            return EXIT_USAGE;
+        }
+    }
+
+    private static int check(String sourceName, String code) {
+        CheckReport report;
+        try {
+            report = CheckReport.check(sourceName, code);
+        } catch (RuntimeException e) {
+            // Keep the documented exit codes and go on with the next file
+            System.err.println("Internal error while checking " + sourceName + ": " + e);
+            return EXIT_INTERNAL;
+        }
+        for (CheckReport.Diagnostic diagnostic : report.getDiagnostics()) {
+            System.out.println(sourceName + ":" + diagnostic.line + ":" + diagnostic.column + ": "
+                    + diagnostic.kind.name().toLowerCase() + " error: " + diagnostic.message);
+        }
+        return report.hasErrors() ? EXIT_ERRORS : EXIT_OK;
+    }
+}
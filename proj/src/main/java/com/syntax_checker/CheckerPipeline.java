@@ -0,0 +1,195 @@
+package com.syntax_checker;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Source -> tokenize -> parse -> diagnostics, with bounded buffers and demand signalling between every stage
+public class CheckerPipeline implements AutoCloseable {
+
+    public static class Source {
+        public final String name;
+        public final String code;
+
+        public Source(String name, String code) {
+            this.name = name;
+            this.code = code;
+        }
+    }
+
+    public static class Tokenized {
+        public final List<Tokenizer.Token> tokens;
+        public final CheckReport report; // Already holds the lexical errors
+
+        public Tokenized(List<Tokenizer.Token> tokens, CheckReport report) {
+            this.tokens = tokens;
+            this.report = report;
+        }
+    }
+
+    private final SubmissionPublisher<Source> sources;
+
+    public CheckerPipeline(int tokenizeParallelism, int parseParallelism, int bufferSize,
+            Flow.Subscriber<CheckReport> diagnostics) {
+        if (tokenizeParallelism < 1 || parseParallelism < 1 || bufferSize < 1) {
+            throw new IllegalArgumentException("Parallelism and buffer size must be at least 1");
+        }
+        this.sources = new SubmissionPublisher<>(ForkJoinPool.commonPool(), bufferSize);
+
+        Stage<Source, Tokenized> tokenizeStage = new Stage<>(CheckerPipeline::tokenize, tokenizeParallelism,
+                bufferSize);
+        Stage<Tokenized, CheckReport> parseStage = new Stage<>(CheckerPipeline::parse, parseParallelism, bufferSize);
+
+        // Subscribe from the end so no stage publishes before its downstream is in place
+        parseStage.subscribe(diagnostics);
+        tokenizeStage.subscribe(parseStage);
+        sources.subscribe(tokenizeStage);
+    }
+
+    // Blocks while the first stage's buffer is full, which is what keeps memory flat under bursts
+    public void submit(Source source) {
+        sources.submit(source);
+    }
+
+    // No more sources; the stages drain and complete the diagnostics subscriber
+    @Override
+    public void close() {
+        sources.close();
+    }
+
+    private static Tokenized tokenize(Source source) {
+        CheckReport report = new CheckReport(source.name, source.code);
+        return new Tokenized(new Tokenizer().tokenize(source.code, report), report);
+    }
+
+    private static CheckReport parse(Tokenized tokenized) {
+        try {
+            new Parser(tokenized.tokens, tokenized.report.getLineMap()).check(tokenized.report);
+        } catch (RuntimeException e) {
+            // One malformed submission must not take the whole pipeline down
+            tokenized.report.addSyntaxError(-1, "Parser failure: " + e);
+        }
+        return tokenized.report;
+    }
+
+    // Runs a function on up to `parallelism` items at once and only asks upstream for more as workers free up
+    static class Stage<I, O> extends SubmissionPublisher<O> implements Flow.Processor<I, O> {
+        private final Function<I, O> function;
+        private final int parallelism;
+        private final ExecutorService workers;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean upstreamDone;
+        private Flow.Subscription subscription;
+
+        Stage(Function<I, O> function, int parallelism, int bufferSize) {
+            // Deliver on the common pool, never on our own workers, so a full buffer cannot deadlock them
+            super(ForkJoinPool.commonPool(), bufferSize);
+            this.function = function;
+            this.parallelism = parallelism;
+            this.workers = Executors.newFixedThreadPool(parallelism);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(parallelism);
+        }
+
+        @Override
+        public void onNext(I item) {
+            inFlight.incrementAndGet();
+            workers.execute(() -> {
+                try {
+                    submit(function.apply(item));
+                } catch (RuntimeException e) {
+                    closeExceptionally(e);
+                    subscription.cancel();
+                    // Upstream never completes after a cancel, so the workers must be released here
+                    workers.shutdown();
+                } finally {
+                    inFlight.decrementAndGet();
+                    completeIfDrained();
+                }
+                subscription.request(1);
+            });
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            closeExceptionally(throwable);
+            workers.shutdown();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamDone = true;
+            completeIfDrained();
+        }
+
+        private void completeIfDrained() {
+            if (upstreamDone && inFlight.get() == 0) {
+                close();
+                workers.shutdown();
+            }
+        }
+    }
+
+    // Hands each report to a consumer, keeping at most `batchSize` of them requested at a time
+    public static class DiagnosticsSubscriber implements Flow.Subscriber<CheckReport> {
+        private final Consumer<CheckReport> consumer;
+        private final int batchSize;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private int received;
+        private volatile Throwable failure;
+
+        public DiagnosticsSubscriber(Consumer<CheckReport> consumer, int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be at least 1");
+            }
+            this.consumer = consumer;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(batchSize);
+        }
+
+        @Override
+        public void onNext(CheckReport item) {
+            consumer.accept(item);
+            if (++received == batchSize) {
+                received = 0;
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            failure = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+
+        // Wait until every submitted source has been reported
+        public void await() throws InterruptedException {
+            done.await();
+            if (failure != null) {
+                throw new IllegalStateException("Checker pipeline failed", failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.syntax_checker;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+// Table of line start offsets, used to turn a token position into a line and column only when reporting
+public class LineMap implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] lineStarts; // Offset of the first character of each line, relative to the text
+    private final int lineCount;
+    private final int firstLine;
+    private final int firstColumn;
+
+    public LineMap(String code) {
+        this(code, 0, 1, 1);
+    }
+
+    // For a piece of a larger input that starts at the given absolute offset, line and column
+    public LineMap(String code, int startOffset, int firstLine, int firstColumn) {
+        int[] starts = new int[16];
+        int count = 0;
+        starts[count++] = startOffset;
+
+        int newline = code.indexOf('\n');
+        while (newline >= 0) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+            }
+            starts[count++] = startOffset + newline + 1;
+            newline = code.indexOf('\n', newline + 1);
+        }
+
+        this.lineStarts = starts;
+        this.lineCount = count;
+        this.firstLine = firstLine;
+        this.firstColumn = firstColumn;
+    }
+
+    public int lineOf(int position) {
+        return firstLine + lineIndex(position);
+    }
+
+    public int columnOf(int position) {
+        int index = lineIndex(position);
+        int column = position - lineStarts[index] + 1;
+        // Only the first line may start part way through a line of the full input
+        return index == 0 ? column + firstColumn - 1 : column;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    private int lineIndex(int position) {
+        int index = Arrays.binarySearch(lineStarts, 0, lineCount, position);
+        // Not a line start: binarySearch gives -(insertion point) - 1, the line is the one before it
+        return index >= 0 ? index : Math.max(-index - 2, 0);
+    }
+}
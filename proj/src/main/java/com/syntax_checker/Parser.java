@@ -1,15 +1,23 @@
 package com.syntax_checker;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class Parser {
 
     private List<Tokenizer.Token> tokens;
     private int currentTokenIndex;
+    private int furthestTokenIndex; // Furthest token any attempt at the current statement got to
+    private LineMap lines; // Resolves token positions for error messages, may be null
 
     public Parser(List<Tokenizer.Token> tokens) {
+        this(tokens, null);
+    }
+
+    public Parser(List<Tokenizer.Token> tokens, LineMap lines) {
         this.tokens = tokens;
         this.currentTokenIndex = 0;
+        this.lines = lines;
     }
 
     private Tokenizer.Token getCurrentToken() {
@@ -21,39 +29,70 @@ public class Parser {
 
     // Public Parsing Methods
     public void parseAllStatements() throws SyntaxErrorException {
+        parseAll(true);
+    }
+
+    // Same pass as parseAllStatements, but adds every syntax error to the report instead of printing
+    public void check(CheckReport report) {
+        for (SyntaxErrorException e : parseAll(false)) {
+            report.addSyntaxError(e.getPosition(), e.getReason());
+        }
+    }
+
+    private List<SyntaxErrorException> parseAll(boolean print) {
+        List<SyntaxErrorException> errors = new ArrayList<>();
         boolean hasParsedStatement = false;
 
         while (currentTokenIndex < tokens.size()) {
             optionalWhitespace(); // Consume whitespace/newlines before attempting to parse
 
             if (currentTokenIndex < tokens.size()) { // Check if there are more tokens
+                int statementStart = currentTokenIndex;
+                furthestTokenIndex = currentTokenIndex;
                 try {
                     String parsedStatement = parseStatement(); // Parse a single statement
-                    System.out.println("\n" + parsedStatement); // Print the parsed statement
+                    if (print) {
+                        System.out.println("\n" + parsedStatement); // Print the parsed statement
+                    }
                     hasParsedStatement = true;
                 } catch (SyntaxErrorException e) {
-                    System.err.println(e.getMessage());
-                    consumeToken(); // Move to the next token to continue parsing
+                    // Input statements backtrack, so the error token is not always as far as parsing got
+                    int errorEnd = Math.max(currentTokenIndex, furthestTokenIndex);
+                    skipStatement(statementStart); // Move past the broken statement to continue parsing
+                    // An unknown token the statement ran into was already reported by the tokenizer
+                    if (!containsUnknownToken(statementStart, errorEnd)) {
+                        errors.add(e);
+                        if (print) {
+                            System.err.println(e.getMessage());
+                        }
+                    }
                 }
             }
         }
 
-        if (hasParsedStatement) {
-            System.out.println("Parsing successful");
-        } else {
-            System.out.println("No valid statements parsed.");
+        if (print) {
+            if (hasParsedStatement) {
+                System.out.println("Parsing successful");
+            } else {
+                System.out.println("No valid statements parsed.");
+            }
         }
+        return errors;
     }
 
     public String parseStatement() throws SyntaxErrorException {
+        int startIndex = currentTokenIndex;
         try {
             return parseOutputStatement();
         } catch (SyntaxErrorException e) {
-            // If output statement parsing fails, try input statement
+            // If output statement parsing fails, try input statement from the same start
+            int errorIndex = currentTokenIndex;
+            currentTokenIndex = startIndex;
             try {
                 return parseInputStatement();
             } catch (SyntaxErrorException ignored) {
                 // If both fail, throw the original error from output statement
+                currentTokenIndex = errorIndex;
                 throw e;
             }
         }
@@ -244,8 +283,8 @@ public class Parser {
 
     private boolean parseNumericLiteral() {
         Tokenizer.Token currentToken = getCurrentToken();
-        if (currentToken != null && currentToken.type == Tokenizer.TokenType.INTEGER_LITERAL
-                || currentToken.type == Tokenizer.TokenType.FLOAT_LITERAL) {
+        if (currentToken != null && (currentToken.type == Tokenizer.TokenType.INTEGER_LITERAL
+                || currentToken.type == Tokenizer.TokenType.FLOAT_LITERAL)) {
             consumeToken();
             return true;
         }
@@ -276,9 +315,13 @@ public class Parser {
         StringBuilder errorMessage = new StringBuilder("Syntax error");
 
         if (token != null) {
-            errorMessage.append(" at line ").append(token.line)
-                    .append(" (column ").append(token.column).append("): ")
-                    .append(message).append(" (Found: '").append(token.value).append("')");
+            if (lines != null) {
+                errorMessage.append(" at line ").append(lines.lineOf(token.position))
+                        .append(" (column ").append(lines.columnOf(token.position)).append("): ");
+            } else {
+                errorMessage.append(" at position ").append(token.position).append(": ");
+            }
+            errorMessage.append(message).append(" (Found: '").append(token.value).append("')");
         } else {
             errorMessage.append(": ").append(message);
         }
@@ -293,11 +336,30 @@ public class Parser {
 
     private void error(String message) throws SyntaxErrorException {
         String errorMessage = generateErrorMessage(null, message);
-        throw new SyntaxErrorException(errorMessage);
+        Tokenizer.Token token = getCurrentToken();
+        if (token != null) {
+            throw new SyntaxErrorException(errorMessage, token.position, message + " (Found: '" + token.value + "')");
+        }
+        throw new SyntaxErrorException(errorMessage, -1, message);
+    }
+
+    // Skip past the next semicolon or up to the next statement, whichever comes first, so one mistake is reported
+    // once without hiding the statements after it
+    private void skipStatement(int statementStart) {
+        while (currentTokenIndex < tokens.size()) {
+            if (currentTokenIndex > statementStart && isStatementStart(currentTokenIndex)) {
+                break;
+            }
+            consumeToken();
+            if (tokens.get(currentTokenIndex - 1).value.equals(";")) {
+                break;
+            }
+        }
     }
 
     private void consumeToken() {
         currentTokenIndex++;
+        furthestTokenIndex = Math.max(furthestTokenIndex, currentTokenIndex);
     }
 
     private boolean match(String expectedValue) {
@@ -314,7 +376,7 @@ public class Parser {
         int lookaheadIndex = currentTokenIndex;
 
         for (int i = 0; i < words.length; i++) {
-            Tokenizer.Token currentToken = tokens.get(lookaheadIndex);
+            Tokenizer.Token currentToken = lookaheadIndex < tokens.size() ? tokens.get(lookaheadIndex) : null;
 
             if (currentToken == null || !currentToken.value.equals(words[i])) {
                 return false;
@@ -323,7 +385,7 @@ public class Parser {
             lookaheadIndex++;
 
             if (i < words.length - 1) {
-                currentToken = tokens.get(lookaheadIndex);
+                currentToken = lookaheadIndex < tokens.size() ? tokens.get(lookaheadIndex) : null;
                 if (currentToken == null || !currentToken.value.equals(".")) {
                     return false;
                 }
@@ -349,15 +411,38 @@ public class Parser {
     }
 
     private boolean optionalWhitespace() {
-        while (getCurrentToken() != null &&
-                (getCurrentToken().type == Tokenizer.TokenType.WHITESPACE ||
-                        getCurrentToken().type == Tokenizer.TokenType.NEWLINE)) {
+        while (getCurrentToken() != null && getCurrentToken().type == Tokenizer.TokenType.WHITESPACE) {
             consumeToken();
         }
         return true;
     }
 
     // Helper Functions
+    // Checks the tokens from startIndex up to and including endIndex
+    private boolean containsUnknownToken(int startIndex, int endIndex) {
+        for (int i = startIndex; i <= endIndex && i < tokens.size(); i++) {
+            if (tokens.get(i).type == Tokenizer.TokenType.UNKNOWN) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // `System.out...`, `Scanner name ...` or `BufferedReader name ...`, but not `new Scanner(System.in)`
+    private boolean isStatementStart(int index) {
+        String value = tokens.get(index).value;
+        Tokenizer.Token next = index + 1 < tokens.size() ? tokens.get(index + 1) : null;
+        Tokenizer.Token afterNext = index + 2 < tokens.size() ? tokens.get(index + 2) : null;
+
+        if ("System".equals(value)) {
+            return next != null && next.value.equals(".") && afterNext != null && afterNext.value.equals("out");
+        }
+        if ("Scanner".equals(value) || "BufferedReader".equals(value)) {
+            return next != null && next.type == Tokenizer.TokenType.IDENTIFIER;
+        }
+        return false;
+    }
+
     private boolean isOperator(String value) {
         return "+".equals(value) || "-".equals(value) || "*".equals(value) || "/".equals(value) || "=".equals(value)
                 || "<".equals(value) || ">".equals(value) || "!".equals(value) || "&".equals(value)
@@ -373,15 +458,16 @@ public class Parser {
         Tokenizer tokenizer = new Tokenizer();
         try {
             List<Tokenizer.Token> tokens = tokenizer.tokenize(code);
+            LineMap lines = new LineMap(code);
 
             // Print all tokens
             for (int i = 0; i < tokens.size(); i++) {
                 Tokenizer.Token token = tokens.get(i);
                 System.out.printf("Token %d: Type=%s, Value='%s', Line=%d, Column=%d%n",
-                        i, token.type, token.value, token.line, token.column);
+                        i, token.type, token.value, lines.lineOf(token.position), lines.columnOf(token.position));
             }
 
-            Parser parser = new Parser(tokens);
+            Parser parser = new Parser(tokens, lines);
             parser.parseAllStatements();
         } catch (Tokenizer.LexicalException e) {
             System.err.println(e.getMessage());
@@ -1,6 +1,23 @@
 package com.syntax_checker;
 public class SyntaxErrorException extends Exception {
+    private final int position; // Offset of the offending token, -1 at end of input
+    private final String reason; // The message without its "Syntax error at line ..." location prefix
+
     public SyntaxErrorException(String message) {
+        this(message, -1, message);
+    }
+
+    public SyntaxErrorException(String message, int position, String reason) {
         super(message);
+        this.position = position;
+        this.reason = reason;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public String getReason() {
+        return reason;
     }
 }
\ No newline at end of file
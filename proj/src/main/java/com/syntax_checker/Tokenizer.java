@@ -1,5 +1,6 @@
 package com.syntax_checker;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -22,94 +23,191 @@ public class Tokenizer {
             + BOOLEAN_LITERAL + ")|(" + IDENTIFIER + ")|(" + OPERATORS + ")|(" + SEPARATORS + ")|(" + STRING_LITERAL
             + ")|(" + FLOAT_LITERAL
             + ")|(" + INTEGER_LITERAL + ")|(" + CHAR_LITERAL + ")|(" + WHITESPACE + ")|(.)";
+    private static final Pattern TOKEN_PATTERN = Pattern.compile(ALL_TOKENS); // Compiled once, shared by all calls
 
     public enum TokenType {
         KEYWORD, IO_CLASS, IO_METHOD, BOOLEAN_LITERAL, IDENTIFIER, OPERATOR, SEPARATOR, STRING_LITERAL, FLOAT_LITERAL,
-        INTEGER_LITERAL, CHAR_LITERAL, WHITESPACE, UNKNOWN, NEWLINE
+        INTEGER_LITERAL, CHAR_LITERAL, WHITESPACE, UNKNOWN
     }
 
+    private static final TokenType[] GROUP_TYPES = TokenType.values(); // Regex group i maps to GROUP_TYPES[i - 1]
+
     public static class Token {
         public TokenType type;
         public String value;
-        public int line;
-        public int column;
+        public int position; // Offset in the source, resolve it with a LineMap when a line/column is needed
 
-        public Token(TokenType type, String value, int line, int column) {
+        public Token(TokenType type, String value, int position) {
             this.type = type;
             this.value = value;
-            this.line = line;
-            this.column = column;
+            this.position = position;
         }
 
         @Override
         // Function to convert to string
         public String toString() {
+            return String.format("Type: %-20s | Value: %-15s | Position: %-5d", type, value, position);
+        }
+
+        public String toString(LineMap lines) {
             return String.format("Type: %-20s | Value: %-15s | Line: %-3d | Column: %-3d",
-                    type, value, line, column);
+                    type, value, lines.lineOf(position), lines.columnOf(position));
+        }
+
+    }
+
+    // Snapshot of the lexer between chunks: where the next chunk starts and any text held back from the last one
+    public static class LexerState implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public int position; // Absolute offset of the first character not yet turned into tokens
+        public int line;
+        public int column;
+        public String pending; // Partial token carried over (e.g. an unterminated string literal)
+
+        public LexerState() {
+            this(0, 1, 1, "");
         }
 
+        public LexerState(int position, int line, int column, String pending) {
+            this.position = position;
+            this.line = line;
+            this.column = column;
+            this.pending = pending;
+        }
+
+        public LexerState copy() {
+            return new LexerState(position, line, column, pending);
+        }
+
+        public boolean hasPendingToken() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Position: %-6d | Line: %-3d | Column: %-3d | Pending: %d chars",
+                    position, line, column, pending.length());
+        }
     }
 
     public List<Token> tokenize(String code) {
+        return tokenize(code, new LexerState(), true, null);
+    }
+
+    // Keep going past unrecognized tokens: add each one to the report and emit it as an UNKNOWN token
+    public List<Token> tokenize(String code, CheckReport report) {
+        return tokenize(code, new LexerState(), true, report);
+    }
+
+    // Tokenize the next chunk of a larger input, holding back any token that may continue in the next chunk
+    public List<Token> tokenize(String chunk, LexerState state) {
+        return tokenize(chunk, state, false, null);
+    }
+
+    // Flush whatever is still pending once the input has ended
+    public List<Token> finish(LexerState state) {
+        return tokenize("", state, true, null);
+    }
+
+    private List<Token> tokenize(String chunk, LexerState state, boolean endOfInput, CheckReport report) {
         List<Token> tokens = new ArrayList<>(); // List to hold tokens
-        Pattern pattern = Pattern.compile(ALL_TOKENS); // Compile regex pattern for all tokens
-        Matcher matcher = pattern.matcher(code); // Create matcher for input code
+        String code = state.pending + chunk;
+        int limit = endOfInput ? code.length() : findResumePoint(code);
 
-        int lineNumber = 1;
-        int columnNumber = 1;
+        // Transparent bounds so word boundaries can still see the held back text
+        Matcher matcher = TOKEN_PATTERN.matcher(code).region(0, limit)
+                .useTransparentBounds(true).useAnchoringBounds(false);
 
         while (matcher.find()) {
-            String tokenValue = matcher.group();
             TokenType tokenType = determineTokenType(matcher);
 
             if (tokenType == TokenType.WHITESPACE) {
-                // Update line and column numbers for whitespace
-                for (char c : tokenValue.toCharArray()) {
-                    if (c == '\n') {
-                        tokens.add(new Token(TokenType.NEWLINE, "\\n", lineNumber, columnNumber));
-                        lineNumber++;
-                        columnNumber = 1;
-                    } else {
-                        columnNumber++;
-                    }
-                }
-                continue;
+                continue; // Line breaks are recovered from the LineMap, no tokens needed
             }
 
+            String tokenValue = matcher.group();
+
             // Handle unknown tokens
             if (tokenType == TokenType.UNKNOWN || tokenValue.contains("#")) {
-                String errorMessage = generateCustomErrorMessage(tokenValue, lineNumber, columnNumber, code);
-                throw new LexicalException(errorMessage, lineNumber, columnNumber);
+                if (report != null) {
+                    report.addLexicalError(state.position + matcher.start(), tokenValue);
+                    tokens.add(new Token(TokenType.UNKNOWN, tokenValue, state.position + matcher.start()));
+                    continue;
+                }
+                LineMap lines = new LineMap(code, state.position, state.line, state.column);
+                int position = state.position + matcher.start();
+                int line = lines.lineOf(position);
+                int column = lines.columnOf(position);
+                String errorMessage = generateCustomErrorMessage(tokenValue, line, column, code, state.line,
+                        state.column);
+                throw new LexicalException(errorMessage, line, column);
             }
 
-            tokens.add(new Token(tokenType, tokenValue, lineNumber, columnNumber));
-            // Update column count
-            columnNumber += tokenValue.length();
+            tokens.add(new Token(tokenType, tokenValue, state.position + matcher.start()));
         }
 
+        // Only commit the new position once the whole chunk went through, so a failed chunk can be retried
+        LineMap lines = new LineMap(code, state.position, state.line, state.column);
+        int resumePosition = state.position + limit;
+        state.line = lines.lineOf(resumePosition);
+        state.column = lines.columnOf(resumePosition);
+        state.position = resumePosition;
+        state.pending = code.substring(limit);
+
         return tokens;
     }
 
+    // Find the offset up to which the tokens cannot change when more input arrives
+    private int findResumePoint(String code) {
+        Matcher matcher = TOKEN_PATTERN.matcher(code);
+        int resumePoint = 0;
+
+        while (matcher.find()) {
+            String tokenValue = matcher.group();
+            TokenType tokenType = determineTokenType(matcher);
+
+            if (tokenType == TokenType.UNKNOWN && tokenValue.equals("\"")) {
+                // String not closed yet. Its closing quote may be any number of lines further on, since the
+                // string pattern spans line breaks, so the hold back is unbounded
+                return matcher.start();
+            }
+            if (tokenType == TokenType.UNKNOWN && tokenValue.equals("'") && code.length() - matcher.end() < 3) {
+                // Could still become 'x' once the next chunk arrives; with three characters after it, it never will
+                return matcher.start();
+            }
+            if (tokenType == TokenType.WHITESPACE) {
+                // No token spans whitespace, so everything before it is final
+                resumePoint = matcher.end();
+            }
+        }
+        return resumePoint;
+    }
+
     private TokenType determineTokenType(Matcher matcher) {
         for (int i = 1; i <= matcher.groupCount(); i++) {
             if (matcher.group(i) != null) {
-                return TokenType.values()[i - 1];
+                return GROUP_TYPES[i - 1];
             }
         }
         return TokenType.UNKNOWN;
     }
 
-    private String generateCustomErrorMessage(String invalidToken, int line, int column, String code) {
+    private String generateCustomErrorMessage(String invalidToken, int line, int column, String code,
+            int firstLine, int firstColumn) {
         StringBuilder errorMessage = new StringBuilder();
         errorMessage.append("\nUnrecognized token '").append(invalidToken).append("' at line ").append(line)
                 .append(", column ").append(column).append("\n");
 
         // Add context to the error message
         String[] lines = code.split("\n");
-        if (line <= lines.length) {
-            String errorLine = lines[line - 1];
-            errorMessage.append("Line ").append(line).append(": ").append(errorLine).append("\n");
-            errorMessage.append(" ".repeat(column + 6)).append("^\n");
+        if (line - firstLine < lines.length) {
+            String errorLine = lines[line - firstLine];
+            String linePrefix = "Line " + line + ": ";
+            errorMessage.append(linePrefix).append(errorLine).append("\n");
+            // A chunk can start part way through its first line, which is then printed from the chunk start
+            int caretColumn = line == firstLine ? column - firstColumn + 1 : column;
+            errorMessage.append(" ".repeat(linePrefix.length() + caretColumn - 1)).append("^\n");
         }
 
         errorMessage.append("Possible fixes:\n");
@@ -139,20 +237,20 @@ public class Tokenizer {
         List<Token> tokens = tokenizer.tokenize(code);
 
         System.out.println("Tokens for the provided code:\n");
-        printTokens(tokens);
+        printTokens(tokens, new LineMap(code));
 
         String testCode = "Scanner scanner = new Scanner(System.in);\n" +
                 "int num = sc.nextInt();\n" +
                 "System.out.println(\"Number: \" + num);";
         System.out.println("\nTesting additional code:\n");
         List<Token> additionalTokens = tokenizer.tokenize(testCode);
-        printTokens(additionalTokens);
+        printTokens(additionalTokens, new LineMap(testCode));
     }
 
-    private static void printTokens(List<Token> tokens) {
+    private static void printTokens(List<Token> tokens, LineMap lines) {
         System.out.println("------------------------------------------------------");
         for (Token token : tokens) {
-            System.out.println(token);
+            System.out.println(token.toString(lines));
         }
         System.out.println("------------------------------------------------------");
     }
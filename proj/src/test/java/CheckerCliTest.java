@@ -0,0 +1,62 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.syntax_checker.CheckerCli;
+
+public class CheckerCliTest {
+
+    public static void main(String[] args) throws IOException {
+        // Run all test cases
+        testCleanFile();
+        testFileWithErrors();
+        testMissingFile();
+        testUnknownOption();
+        testWorstExitCodeWins();
+    }
+
+    // Test Case 1: A file without errors exits with 0
+    public static void testCleanFile() throws IOException {
+        Path file = writeSource("System.out.println(\"Hello\");\nScanner sc = new Scanner(System.in);\n");
+        expectExitCode("Test Clean File", CheckerCli.EXIT_OK, file.toString());
+    }
+
+    // Test Case 2: A file with lexical and syntax errors exits with 1
+    public static void testFileWithErrors() throws IOException {
+        Path file = writeSource("System.out.print(\"a\")\nint x = 5 #;\n");
+        expectExitCode("Test File With Errors", CheckerCli.EXIT_ERRORS, file.toString());
+    }
+
+    // Test Case 3: A file that cannot be read exits with 2
+    public static void testMissingFile() {
+        expectExitCode("Test Missing File", CheckerCli.EXIT_USAGE, "does-not-exist.java");
+    }
+
+    // Test Case 4: An unknown option exits with 2 before any file is checked
+    public static void testUnknownOption() throws IOException {
+        Path file = writeSource("System.out.println(\"Hello\");\n");
+        expectExitCode("Test Unknown Option", CheckerCli.EXIT_USAGE, file.toString(), "--bogus");
+    }
+
+    // Test Case 5: With several files the most severe result decides the exit code
+    public static void testWorstExitCodeWins() throws IOException {
+        Path clean = writeSource("System.out.println(\"Hello\");\n");
+        Path broken = writeSource("System.out.println(\"Hello\")\n");
+        expectExitCode("Test Worst Exit Code Wins", CheckerCli.EXIT_ERRORS, clean.toString(), broken.toString());
+    }
+
+    private static Path writeSource(String code) throws IOException {
+        Path file = Files.createTempFile("checker-cli-test", ".java");
+        file.toFile().deleteOnExit();
+        return Files.writeString(file, code);
+    }
+
+    private static void expectExitCode(String name, int expected, String... args) {
+        int exitCode = CheckerCli.run(args);
+        if (exitCode == expected) {
+            System.out.println(name + " passed: exit code " + exitCode);
+        } else {
+            System.out.println(name + " failed: expected exit code " + expected + ", got " + exitCode);
+        }
+    }
+}
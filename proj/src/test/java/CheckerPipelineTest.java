@@ -0,0 +1,41 @@
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.syntax_checker.CheckReport;
+import com.syntax_checker.CheckerPipeline;
+
+public class CheckerPipelineTest {
+
+    public static void main(String[] args) throws InterruptedException {
+        // Run all test cases
+        testBurstOfSources();
+    }
+
+    // Test Case 1: A burst larger than every buffer still yields exactly one report per source
+    public static void testBurstOfSources() throws InterruptedException {
+        List<CheckReport> reports = new CopyOnWriteArrayList<>();
+        CheckerPipeline.DiagnosticsSubscriber subscriber = new CheckerPipeline.DiagnosticsSubscriber(reports::add, 4);
+
+        int count = 200;
+        try (CheckerPipeline pipeline = new CheckerPipeline(2, 3, 4, subscriber)) {
+            for (int i = 0; i < count; i++) {
+                String code = switch (i % 3) {
+                    case 0 -> "System.out.println(\"Hello\" + " + i + ");";
+                    case 1 -> "Scanner sc = new Scanner(System.in);";
+                    default -> "System.out.print(\"Missing semicolon\")";
+                };
+                pipeline.submit(new CheckerPipeline.Source("source-" + i, code));
+            }
+        }
+        subscriber.await();
+
+        long failed = reports.stream().filter(CheckReport::hasErrors).count();
+        if (reports.size() == count && failed == count / 3) {
+            System.out.println("Test Burst Of Sources passed: " + reports.size() + " reports, " + failed
+                    + " with errors");
+        } else {
+            System.out.println("Test Burst Of Sources failed: " + reports.size() + " reports, " + failed
+                    + " with errors");
+        }
+    }
+}
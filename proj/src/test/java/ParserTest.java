@@ -1,6 +1,8 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import com.syntax_checker.CheckReport;
+import com.syntax_checker.LineMap;
 import com.syntax_checker.Parser;
 import com.syntax_checker.SyntaxErrorException;
 import com.syntax_checker.Tokenizer;
@@ -15,20 +17,23 @@ public class ParserTest {
         testValidScannerInputStatement();
         testInvalidScannerStatement();
         testMixedValidStatements();
+        testMultiLinePrintlnStatement();
+        testMultiLineErrorPosition();
+        testCheckReportCollectsAllErrors();
     }
 
     // Test Case 1: Valid `System.out.println` statement parsing
     public static void testValidPrintlnStatement() {
         List<Tokenizer.Token> tokens = new ArrayList<>();
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "System", 1, 1));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 1, 7));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "out", 1, 8));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 1, 11));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "println", 1, 12));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, "(", 1, 19));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.STRING_LITERAL, "\"Hello, World!\"", 1, 20));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ")", 1, 35));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ";", 1, 36));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "System", 0));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 6));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "out", 7));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 10));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "println", 11));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, "(", 18));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.STRING_LITERAL, "\"Hello, World!\"", 19));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ")", 34));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ";", 35));
 
         Parser parser = new Parser(tokens);
 
@@ -43,15 +48,15 @@ public class ParserTest {
     // Test Case 2: Valid `System.out.print` statement parsing
     public static void testValidPrintStatement() {
         List<Tokenizer.Token> tokens = new ArrayList<>();
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "System", 1, 1));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 1, 7));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "out", 1, 8));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 1, 11));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "print", 1, 12));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, "(", 1, 18));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.STRING_LITERAL, "\"Hello\"", 1, 19));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ")", 1, 26));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ";", 1, 27));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "System", 0));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 6));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "out", 7));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 10));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "print", 11));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, "(", 17));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.STRING_LITERAL, "\"Hello\"", 18));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ")", 25));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ";", 26));
 
         Parser parser = new Parser(tokens);
 
@@ -66,14 +71,14 @@ public class ParserTest {
     // Test Case 3: Invalid `System.out.print` statement (missing semicolon)
     public static void testInvalidPrintStatementMissingSemicolon() {
         List<Tokenizer.Token> tokens = new ArrayList<>();
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "System", 1, 1));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 1, 7));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "out", 1, 8));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 1, 11));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "print", 1, 12));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, "(", 1, 18));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.STRING_LITERAL, "\"Hello\"", 1, 19));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ")", 1, 26));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "System", 0));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 6));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "out", 7));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 10));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "print", 11));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, "(", 17));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.STRING_LITERAL, "\"Hello\"", 18));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ")", 25));
 
         Parser parser = new Parser(tokens);
 
@@ -89,17 +94,17 @@ public class ParserTest {
     // Test Case 4: Valid `Scanner` input statement parsing
     public static void testValidScannerInputStatement() {
         List<Tokenizer.Token> tokens = new ArrayList<>();
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "Scanner", 1, 1));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "sc", 1, 9));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.OPERATOR, "=", 1, 12));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.KEYWORD, "new", 1, 14));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "Scanner", 1, 18));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, "(", 1, 25));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "System", 1, 26));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 1, 32));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "in", 1, 33));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ")", 1, 36));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ";", 1, 37));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "Scanner", 0));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "sc", 8));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.OPERATOR, "=", 11));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.KEYWORD, "new", 13));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "Scanner", 17));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, "(", 24));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "System", 25));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 31));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "in", 32));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ")", 35));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ";", 36));
 
         Parser parser = new Parser(tokens);
 
@@ -114,11 +119,11 @@ public class ParserTest {
     // Test Case 5: Invalid `Scanner` statement (missing parentheses)
     public static void testInvalidScannerStatement() {
         List<Tokenizer.Token> tokens = new ArrayList<>();
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "Scanner", 1, 1));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "sc", 1, 9));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.OPERATOR, "=", 1, 12));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.KEYWORD, "new", 1, 14));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "Scanner", 1, 18));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "Scanner", 0));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "sc", 8));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.OPERATOR, "=", 11));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.KEYWORD, "new", 13));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "Scanner", 17));
         // Intentionally missing a parenthesis and semicolon to trigger an error.
 
         Parser parser = new Parser(tokens);
@@ -135,28 +140,28 @@ public class ParserTest {
     public static void testMixedValidStatements() {
         List<Tokenizer.Token> tokens = new ArrayList<>();
         // Scanner statement
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "Scanner", 1, 1));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "sc", 1, 9));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.OPERATOR, "=", 1, 12));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.KEYWORD, "new", 1, 14));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "Scanner", 1, 18));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, "(", 1, 25));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "System", 1, 26));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 1, 32));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "in", 1, 33));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ")", 1, 36));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ";", 1, 37));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "Scanner", 0));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "sc", 8));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.OPERATOR, "=", 11));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.KEYWORD, "new", 13));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "Scanner", 17));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, "(", 24));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "System", 25));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 31));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "in", 32));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ")", 35));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ";", 36));
 
         // Println statement
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "System", 2, 1));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 2, 7));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "out", 2, 8));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 2, 11));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "println", 2, 12));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, "(", 2, 19));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.STRING_LITERAL, "\"Hello, World!\"", 2, 20));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ")", 2, 35));
-        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ";", 2, 36));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "System", 38));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 44));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "out", 45));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ".", 48));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.IDENTIFIER, "println", 49));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, "(", 56));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.STRING_LITERAL, "\"Hello, World!\"", 57));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ")", 72));
+        tokens.add(new Tokenizer.Token(Tokenizer.TokenType.SEPARATOR, ";", 73));
 
         Parser parser = new Parser(tokens);
 
@@ -172,4 +177,81 @@ public class ParserTest {
             System.out.println("Test Mixed Valid Statements failed: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    // Test Case 7: `System.out.println` with a string concatenation wrapped over several lines
+    public static void testMultiLinePrintlnStatement() {
+        String code = "System.out.println(\"Hello, \" +\n" +
+                "        \"multi-line \" +\n" +
+                "        \"World!\");";
+        Parser parser = new Parser(new Tokenizer().tokenize(code), new LineMap(code));
+
+        try {
+            String parsedStatement = parser.parseStatement();
+            System.out.println("Test Multi-Line Println Statement: " + parsedStatement);
+        } catch (SyntaxErrorException e) {
+            System.out.println("Test Multi-Line Println Statement failed: " + e.getMessage());
+        }
+    }
+
+    // Test Case 8: Errors on a wrapped line are reported at that line, resolved from the token position
+    public static void testMultiLineErrorPosition() {
+        String code = "System.out.println(\"Hello, \" +\n" +
+                "        \"World!\";";
+        Parser parser = new Parser(new Tokenizer().tokenize(code), new LineMap(code));
+
+        try {
+            String parsedStatement = parser.parseStatement();
+            System.out.println("Test Multi-Line Error Position failed: Expected error, but got " + parsedStatement);
+        } catch (SyntaxErrorException e) {
+            if (e.getMessage().contains("at line 2 (column 17)")) {
+                System.out.println("Test Multi-Line Error Position passed: " + e.getMessage());
+            } else {
+                System.out.println("Test Multi-Line Error Position failed: " + e.getMessage());
+            }
+        }
+    }
+
+    // Test Case 9: One pass reports every lexical and syntax error, sorted by position
+    public static void testCheckReportCollectsAllErrors() {
+        String code = "System.out.println(\"ok\");\n" +
+                "System.out.print(\"missing paren\";\n" +
+                "Scanner sc = new Scanner(System.in) @;\n" +
+                "System.out.println(\"done\")";
+        CheckReport report = CheckReport.check("test", code);
+
+        List<CheckReport.Diagnostic> diagnostics = report.getDiagnostics();
+        if (diagnostics.size() == 3
+                && diagnostics.get(0).kind == CheckReport.Kind.SYNTAX && diagnostics.get(0).line == 2
+                && diagnostics.get(1).kind == CheckReport.Kind.LEXICAL && diagnostics.get(1).line == 3
+                && diagnostics.get(2).kind == CheckReport.Kind.SYNTAX && diagnostics.get(2).line == 4) {
+            System.out.println("Test Check Report Collects All Errors passed: " + report);
+        } else {
+            System.out.println("Test Check Report Collects All Errors failed: " + report);
+        }
+
+        // A missing semicolon must not swallow the error in the statement after it
+        CheckReport missingSemicolon = CheckReport.check("test", "System.out.print(\"a\")\n" +
+                "System.out.println(\"b\" + );");
+        diagnostics = missingSemicolon.getDiagnostics();
+        if (diagnostics.size() == 2
+                && diagnostics.get(0).kind == CheckReport.Kind.SYNTAX && diagnostics.get(0).line == 2
+                && diagnostics.get(1).kind == CheckReport.Kind.SYNTAX && diagnostics.get(1).line == 2
+                && diagnostics.get(0).message.contains("semicolon")) {
+            System.out.println("Test Check Report Missing Semicolon passed: " + missingSemicolon);
+        } else {
+            System.out.println("Test Check Report Missing Semicolon failed: " + missingSemicolon);
+        }
+
+        // An unknown token in the next statement must not hide the syntax error before it
+        CheckReport unknownAfter = CheckReport.check("test", "System.out.print(\"a\")\n" +
+                "Scanner sc = new Scanner(System.in) @;");
+        diagnostics = unknownAfter.getDiagnostics();
+        if (diagnostics.size() == 2
+                && diagnostics.get(0).kind == CheckReport.Kind.SYNTAX
+                && diagnostics.get(1).kind == CheckReport.Kind.LEXICAL) {
+            System.out.println("Test Check Report Unknown Token After Error passed: " + unknownAfter);
+        } else {
+            System.out.println("Test Check Report Unknown Token After Error failed: " + unknownAfter);
+        }
+    }
+}
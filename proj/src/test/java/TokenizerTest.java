@@ -1,3 +1,4 @@
+import java.util.ArrayList;
 import java.util.List;
 import com.syntax_checker.Tokenizer;
 
@@ -11,6 +12,80 @@ public class TokenizerTest {
         testInvalidToken("int x = 5 # This is a comment"); // Invalid token after a number
         testInvalidToken("if (x == 5) { print(x); }"); // 'print' is not recognized
         testInvalidToken("while true);"); // Incorrect syntax for while loop
+
+        // Test resumable tokenization across chunks
+        testChunkedTokenization("System.out.println(\"Hello, World!\" + 12.5);\nScanner sc = new Scanner(System.in);", 7);
+        testChunkedTokenization("System.out.print(\"split across\nmany chunks\");", 3);
+
+        testChunkedStrayQuote();
+        testChunkedErrorCaret();
+    }
+
+    // A stray ' that can no longer become a char literal is reported right away instead of holding back the stream
+    private static void testChunkedStrayQuote() {
+        StringBuilder code = new StringBuilder("char c = 'ab';\n");
+        for (int i = 0; i < 2000; i++) {
+            code.append("System.out.println(\"line\");\n");
+        }
+
+        Tokenizer tokenizer = new Tokenizer();
+        Tokenizer.LexerState state = new Tokenizer.LexerState();
+        int chunkSize = 16;
+        for (int start = 0; start < code.length(); start += chunkSize) {
+            try {
+                tokenizer.tokenize(code.substring(start, Math.min(start + chunkSize, code.length())), state);
+            } catch (Tokenizer.LexicalException e) {
+                if (start < 2 * chunkSize) {
+                    System.out.println("Test Chunked Stray Quote passed: reported in chunk " + start / chunkSize);
+                } else {
+                    System.out.println("Test Chunked Stray Quote failed: reported at offset " + start);
+                }
+                return;
+            }
+        }
+        System.out.println("Test Chunked Stray Quote failed: never reported, " + state.pending.length()
+                + " chars pending");
+    }
+
+    // In chunk mode the caret still points at the bad character when the chunk starts mid-line
+    private static void testChunkedErrorCaret() {
+        Tokenizer tokenizer = new Tokenizer();
+        Tokenizer.LexerState state = new Tokenizer.LexerState();
+        tokenizer.tokenize("int x ", state);
+        try {
+            tokenizer.tokenize("= 5 # comment;\n", state);
+            System.out.println("Test Chunked Error Caret failed: Expected error");
+        } catch (Tokenizer.LexicalException e) {
+            String[] lines = e.getMessage().split("\n");
+            String sourceLine = lines[2];
+            String caretLine = lines[3];
+            if (sourceLine.charAt(caretLine.indexOf('^')) == '#') {
+                System.out.println("Test Chunked Error Caret passed:" + e.getMessage());
+            } else {
+                System.out.println("Test Chunked Error Caret failed:" + e.getMessage());
+            }
+        }
+    }
+
+    private static void testChunkedTokenization(String code, int chunkSize) {
+        Tokenizer tokenizer = new Tokenizer();
+        List<Tokenizer.Token> expected = tokenizer.tokenize(code);
+
+        Tokenizer.LexerState state = new Tokenizer.LexerState();
+        List<Tokenizer.Token> actual = new ArrayList<>();
+        for (int start = 0; start < code.length(); start += chunkSize) {
+            String chunk = code.substring(start, Math.min(start + chunkSize, code.length()));
+            actual.addAll(tokenizer.tokenize(chunk, state));
+        }
+        actual.addAll(tokenizer.finish(state));
+
+        if (expected.toString().equals(actual.toString()) && state.position == code.length()) {
+            System.out.println("Test Chunked Tokenization (chunk size " + chunkSize + ") passed: "
+                    + actual.size() + " tokens");
+        } else {
+            System.out.println("Test Chunked Tokenization (chunk size " + chunkSize + ") failed:");
+            printTokens(actual);
+        }
     }
 
     private static void testInvalidToken(String code) {